@@ -21,15 +21,20 @@ import java.util.HashMap;
 import java.util.InputMismatchException;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntFunction;
 
 public class BrockportCalendar {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BrockportCalendar.class);
+    private static final PhaseRecorder RECORDER = PhaseRecorder.INSTANCE;
     private static final String WEBSITE = "https://www.brockport.edu/academics/calendar/";
 
     private static final int DATE_SIMILARITY_THRESHOLD = 20;
+    private static final int PHONETIC_SIMILARITY = 90;
 
     private final Map<String, Date> CALENDAR = new HashMap<>();
+    private PhoneticIndex phoneticIndex;
 
     private final List<DateInfo> DATES = new ArrayList<>();
     private static final int MAX_DATES = 3;
@@ -40,31 +45,77 @@ public class BrockportCalendar {
      * @throws IOException If the website connection cannot be succesfully established.
      */
     public BrockportCalendar() throws IOException {
-        Document doc = Jsoup.connect(WEBSITE).get();
+        Phase fetchPhase = RECORDER.beginCalendarFetch();
+        Document doc = null;
+
+        // End the phase even if the connection fails or times out, since those are the slowest fetches.
+        try {
+            doc = Jsoup.connect(WEBSITE).get();
+        } finally {
+            RECORDER.endCalendarFetch(fetchPhase, WEBSITE, doc != null);
+        }
+
         Elements events = doc.getElementsByClass("ev");
         Elements dates = doc.getElementsByClass("date");
 
-        // Since some dates have multiple events, create multiple key-value pairs with the same date, appending "Day X"
-        // to the name, with X being the Xth occurrence of that event.
-        for (int[] x = {0}; x[0] < dates.size(); x[0]++) {
-            Iterable<Date> dateList = formatDate(dates.get(x[0]).text());
+        Phase indexPhase = RECORDER.beginCalendarIndex();
+
+        try {
+            // Since some dates have multiple events, create multiple key-value pairs with the same date, appending
+            // "Day X" to the name, with X being the Xth occurrence of that event.
+            for (int[] x = {0}; x[0] < dates.size(); x[0]++) {
+                Iterable<Date> dateList = formatDate(dates.get(x[0]).text());
 
-            dateList.forEach(date -> {
-                String eventName = events.get(x[0]).text();
+                dateList.forEach(date -> {
+                    String eventName = events.get(x[0]).text();
 
-                if (CALENDAR.containsKey(eventName)) {
-                    String duplicate = eventName + " Day 2";
+                    if (CALENDAR.containsKey(eventName)) {
+                        String duplicate = eventName + " Day 2";
 
-                    for (int y = 2; CALENDAR.containsKey(duplicate.substring(0, duplicate.length() - 1) + y); y++) {
-                        duplicate = duplicate.substring(0, duplicate.length() - 1) + (y + 1);
+                        for (int y = 2; CALENDAR.containsKey(duplicate.substring(0, duplicate.length() - 1) + y); y++) {
+                            duplicate = duplicate.substring(0, duplicate.length() - 1) + (y + 1);
+                        }
+
+                        eventName = duplicate;
                     }
 
-                    eventName = duplicate;
-                }
+                    CALENDAR.put(eventName, date);
+                });
+            }
+        } finally {
+            RECORDER.endCalendarIndex(indexPhase, dates.size(), CALENDAR.size());
+        }
+    }
+
+    /**
+     * Initializes the calendar with the given events instead of retrieving them from the Brockport calendar website.
+     *
+     * @param calendar The event names and their dates.
+     */
+    BrockportCalendar(Map<String, Date> calendar) {
+        CALENDAR.putAll(calendar);
+    }
+
+    /**
+     * Retrieves the index of the event names by how they sound, ignoring the "Day X" suffixes, so that transcribed
+     * queries can be matched without scoring every event.
+     * <p>
+     * The index is built the first time it is needed, since a calendar is created for every request and only
+     * {@link #getEventDates} uses it.
+     *
+     * @return The phonetic index of every event name.
+     */
+    private PhoneticIndex getPhoneticIndex() {
+        if (phoneticIndex == null) {
+            Phase phoneticPhase = RECORDER.beginPhoneticIndex();
+
+            phoneticIndex = new PhoneticIndex();
+            CALENDAR.keySet().forEach(eventName -> phoneticIndex.add(eventName, getCleanEventName(eventName)));
 
-                CALENDAR.put(eventName, date);
-            });
+            RECORDER.endPhoneticIndex(phoneticPhase, CALENDAR.size(), phoneticIndex.size());
         }
+
+        return phoneticIndex;
     }
 
     /**
@@ -114,6 +165,8 @@ public class BrockportCalendar {
      * @throws InputMismatchException If the given date and time string is not in a recognized
      */
     private Iterable<Date> formatDate(String dateString) throws InputMismatchException {
+        Phase parsePhase = RECORDER.beginDateParse();
+
         List<String> dateSplit = Arrays.asList(dateString.split(" "));
         SimpleDateFormat dateFormat;
         Collection<Date> dates = new ArrayList<>();
@@ -173,6 +226,8 @@ public class BrockportCalendar {
         } catch (InputMismatchException e) {
             LOGGER.error("Input {} not in expected format.", dateString);
             throw new InputMismatchException("Input " + dateString + " not in expected format.");
+        } finally {
+            RECORDER.endDateParse(parsePhase, dateString, dates.size());
         }
 
         return dates;
@@ -182,6 +237,9 @@ public class BrockportCalendar {
      * Retrieves up to {@code MAX_DATES} number of {@link java.util.Date}s, wrapped in a sorted
      * {@link java.util.ArrayList<java.util.Date>}, for an event, since multiple events with the same name can occur and
      * event name matching may not be ideal.
+     * <p>
+     * Events that sound like the given event name are looked up in the phonetic index, and only those are scored if any
+     * are found. Otherwise every event is fuzzy scored.
      *
      * @param eventName       The event name.
      * @param tense           If {@code Tense.PAST}, considers any past events. If {@code Tense.NOTPAST}, only future events are
@@ -190,23 +248,68 @@ public class BrockportCalendar {
      * @return The {@link java.util.ArrayList<java.util.Date>} for an event.
      */
     public List<DateInfo> getEventDates(String eventName, Tense tense, boolean cleanEventNames) {
+        return getEventDates(eventName, tense, cleanEventNames, true);
+    }
+
+    /**
+     * Retrieves the dates for an event as {@link #getEventDates(String, Tense, boolean)} does, optionally fuzzy scoring
+     * every event without looking in the phonetic index first.
+     *
+     * @param eventName        The event name.
+     * @param tense            If {@code Tense.PAST}, considers any past events. If {@code Tense.NOTPAST}, only future
+     *                         events are considered.
+     * @param cleanEventNames  Whether or not the names should be cleaned of unnecessary information.
+     * @param usePhoneticIndex Whether or not events that sound like the event name should be looked up first.
+     * @return The {@link java.util.ArrayList<java.util.Date>} for an event.
+     */
+    List<DateInfo> getEventDates(String eventName, Tense tense, boolean cleanEventNames, boolean usePhoneticIndex) {
+        Phase scorePhase = RECORDER.beginFuzzyScore();
+
         // Remove all non-alphanumeric characters from the event name.
         String finalEventName = eventName.toLowerCase().replaceAll("[^a-z0-9]", "")
                 .replace("graduation", "commencement ceremony");
 
-        // Iterate through every key-value pair and compare the event name similarity to the event in the current loop
-        // state.
-        CALENDAR.forEach((currEventName, date) -> {
-            // Remove all non-alphanumeric characters from the current event.
-            String tempEvent = currEventName.toLowerCase().replaceAll("[^a-z0-9]", "");
+        // Track the number of scored events and the best score seen for the Flight Recorder event.
+        int[] candidates = {0};
+        int[] bestScore = {0};
+
+        // Insert an event with the similarity the given scorer gives its alphanumeric name.
+        BiConsumer<String, ToIntFunction<String>> scoreEvent = (currEventName, scorer) -> {
+            Date date = CALENDAR.get(currEventName);
 
             // If we are looking at past events or if the event has not yet occurred, insert the date.
             if (tense == Tense.PAST || !date.before(new Date())) {
+                // Remove all non-alphanumeric characters from the current event.
+                int similarity = scorer.applyAsInt(currEventName.toLowerCase().replaceAll("[^a-z0-9]", ""));
+
+                candidates[0]++;
+                bestScore[0] = Math.max(bestScore[0], similarity);
+
                 insertDate(new DateInfo(cleanEventNames ? getCleanEventName(currEventName) : currEventName,
                         date,
-                        tempEvent.contains(finalEventName) ? 100 : FuzzySearch.partialRatio(finalEventName, tempEvent)));
+                        similarity));
             }
-        });
+        };
+
+        // Insert every event that sounds like the event name. Transcriptions are rarely spelled closely enough for a
+        // high fuzzy score, so sounding alike scores at least PHONETIC_SIMILARITY.
+        if (usePhoneticIndex) {
+            getPhoneticIndex().lookup(eventName.toLowerCase().replace("graduation", "commencement ceremony"))
+                    .forEach(currEventName -> scoreEvent.accept(currEventName,
+                            tempEvent -> tempEvent.contains(finalEventName) ? 100 : PHONETIC_SIMILARITY));
+        }
+
+        boolean phoneticMatch = candidates[0] > 0;
+
+        // Iterate through every key-value pair and compare the event name similarity to the event in the current loop
+        // state, if no event sounded like the event name.
+        if (!phoneticMatch) {
+            CALENDAR.keySet().forEach(currEventName -> scoreEvent.accept(currEventName, tempEvent ->
+                    tempEvent.contains(finalEventName) ? 100 : FuzzySearch.partialRatio(finalEventName, tempEvent)));
+        }
+
+        RECORDER.endFuzzyScore(scorePhase, eventName, tense.label, phoneticMatch, candidates[0], DATES.size(),
+                bestScore[0]);
 
         return DATES;
     }
@@ -305,7 +408,7 @@ public class BrockportCalendar {
      * @param eventName The event name to clean.
      * @return The cleaned event name.
      */
-    private static String getCleanEventName(String eventName) {
+    static String getCleanEventName(String eventName) {
         return eventName
                 .replaceAll("Day \\d", "")
                 .replaceAll("[ ][(]\\d[)]", "")
@@ -27,16 +27,22 @@ import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 
 public class BrockportCalendarApp extends DialogflowApp {
 
+    private static final PhaseRecorder RECORDER = PhaseRecorder.INSTANCE;
+
     @ForIntent("getdate")
     public ActionResponse getdate(ActionRequest request) throws IOException {
         String eventName = (String) request.getParameter("event");
         Tense tense = Tense.valueOf(((String) request.getParameter("tense")).toUpperCase());
         List<DateInfo> dates = new BrockportCalendar().getEventDates(eventName, tense, true);
+
+        Phase renderPhase = RECORDER.beginResponseRender();
+
         SimpleDateFormat dateFormat = new SimpleDateFormat("MMMMM d, yyyy");
 
         String[] response = {"You asked about " + eventName};
@@ -59,6 +65,8 @@ public class BrockportCalendarApp extends DialogflowApp {
             );
         }
 
+        endRenderPhase(renderPhase, "getdate", eventName, dates.size(), response[0]);
+
         return getResponseBuilder(request).add(response[0]).build();
     }
 
@@ -71,6 +79,8 @@ public class BrockportCalendarApp extends DialogflowApp {
 
         DateInfo eventDate = new DateInfo(new BrockportCalendar().getEventName(date, true), date, 0);
 
+        Phase renderPhase = RECORDER.beginResponseRender();
+
         String response = "You asked about " + dateFormat.format(date);
 
         if (tense == Tense.PAST) {
@@ -85,6 +95,9 @@ public class BrockportCalendarApp extends DialogflowApp {
             response += "The event is " + eventDate.getName() + ".";
         }
 
+        endRenderPhase(renderPhase, "getevent", (String) request.getParameter("date"),
+                eventDate.getName() == null ? 0 : 1, response);
+
         return getResponseBuilder(request).add(response).build();
     }
 
@@ -93,6 +106,8 @@ public class BrockportCalendarApp extends DialogflowApp {
         String eventName = (String) request.getParameter("event");
         DateInfo dateInfo = new BrockportCalendar().getDaysUntilEvent(eventName, true);
 
+        Phase renderPhase = RECORDER.beginResponseRender();
+
         String response = "You asked about how many days there are until " + eventName + ".\n";
 
         if (dateInfo == null) {
@@ -103,17 +118,23 @@ public class BrockportCalendarApp extends DialogflowApp {
             response += "There are " + days + " days until " + dateInfo.getName() + ".";
         }
 
+        endRenderPhase(renderPhase, "getdaysuntilevent", eventName, dateInfo == null ? 0 : 1, response);
+
         return getResponseBuilder(request).add(response).build();
     }
 
     @ForIntent("getfutureevents")
     public ActionResponse getfutureevents(ActionRequest request) throws IOException {
         int numDays = ((Number) request.getParameter("numdays")).intValue();
+        boolean inRange = numDays <= 50 && numDays > 0;
+        List<DateInfo> events = inRange
+                ? new BrockportCalendar().getEventsInNextNDays(numDays, true)
+                : Collections.emptyList();
         String[] response = new String[1];
 
-        if(numDays <= 50 && numDays > 0) {
-            List<DateInfo> events = new BrockportCalendar().getEventsInNextNDays(numDays, true);
+        Phase renderPhase = RECORDER.beginResponseRender();
 
+        if (inRange) {
             response[0] = "You asked about upcoming events in the next " + numDays + " days.\n";
 
             if (events.isEmpty()) {
@@ -136,7 +157,21 @@ public class BrockportCalendarApp extends DialogflowApp {
             response[0] = "Number of days must be between 1 and 50.";
         }
 
+        endRenderPhase(renderPhase, "getfutureevents", String.valueOf(numDays), events.size(), response[0]);
+
         return getResponseBuilder(request).add(response[0]).build();
     }
 
+    /**
+     * Ends the response rendering phase of an intent.
+     *
+     * @param renderPhase The phase that was started before rendering the response.
+     * @param intent      The name of the intent being handled.
+     * @param query       The event name, date or day count the user asked about.
+     * @param results     The number of results included in the response.
+     * @param response    The rendered response.
+     */
+    private static void endRenderPhase(Phase renderPhase, String intent, String query, int results, String response) {
+        RECORDER.endResponseRender(renderPhase, intent, query, results, response.length());
+    }
 }
@@ -0,0 +1,23 @@
+package edu.brockport.voiceassistant;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering the HTTP fetch of the Brockport calendar website.
+ */
+@Name("edu.brockport.voiceassistant.CalendarFetch")
+@Label("Calendar Fetch")
+@Category({"Brockport Calendar Assistant", "Calendar"})
+@Description("Downloads and parses the Brockport calendar web page.")
+class CalendarFetchEvent extends jdk.jfr.Event implements Phase {
+
+    @Label("URL")
+    String url;
+
+    @Label("Succeeded")
+    @Description("Whether the page was retrieved, rather than the connection failing or timing out.")
+    boolean succeeded;
+}
@@ -0,0 +1,22 @@
+package edu.brockport.voiceassistant;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering the construction of the event name to date index.
+ */
+@Name("edu.brockport.voiceassistant.CalendarIndex")
+@Label("Calendar Index")
+@Category({"Brockport Calendar Assistant", "Calendar"})
+@Description("Builds the event name to date index from the fetched calendar.")
+class CalendarIndexEvent extends jdk.jfr.Event implements Phase {
+
+    @Label("Source Rows")
+    int sourceRows;
+
+    @Label("Indexed Events")
+    int indexedEvents;
+}
@@ -0,0 +1,22 @@
+package edu.brockport.voiceassistant;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering the parsing of a single calendar date string.
+ */
+@Name("edu.brockport.voiceassistant.DateParse")
+@Label("Date Parse")
+@Category({"Brockport Calendar Assistant", "Calendar"})
+@Description("Parses a calendar date string into one or more dates.")
+class DateParseEvent extends jdk.jfr.Event implements Phase {
+
+    @Label("Input")
+    String input;
+
+    @Label("Dates Parsed")
+    int datesParsed;
+}
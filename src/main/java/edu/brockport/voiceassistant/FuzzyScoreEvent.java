@@ -0,0 +1,40 @@
+package edu.brockport.voiceassistant;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering the scoring of calendar events against a single query. The events that sound like the
+ * query are looked up in the phonetic index, and only those are scored if any are found. Otherwise every event is fuzzy
+ * scored.
+ */
+@Name("edu.brockport.voiceassistant.FuzzyScore")
+@Label("Fuzzy Score")
+@Category({"Brockport Calendar Assistant", "Query"})
+@Description("Scores phonetic index matches, or every calendar event if there are none, against an event name query.")
+class FuzzyScoreEvent extends jdk.jfr.Event implements Phase {
+
+    @Label("Query")
+    String query;
+
+    @Label("Tense")
+    String tense;
+
+    @Label("Phonetic Match")
+    @Description("Whether events were found in the phonetic index, so that the remaining events were not scored.")
+    boolean phoneticMatch;
+
+    @Label("Candidates")
+    @Description("Number of calendar events that were scored against the query, either the phonetic index matches "
+            + "or every event.")
+    int candidates;
+
+    @Label("Matches")
+    @Description("Number of dates returned to the caller.")
+    int matches;
+
+    @Label("Best Score")
+    int bestScore;
+}
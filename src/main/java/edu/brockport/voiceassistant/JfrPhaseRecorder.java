@@ -0,0 +1,131 @@
+package edu.brockport.voiceassistant;
+
+/**
+ * Records the phases of handling a request as Java Flight Recorder events. Only loaded by
+ * {@link edu.brockport.voiceassistant.PhaseRecorder} when {@code jdk.jfr} is present.
+ * <p>
+ * Each event's fields are only populated once it is known to be committed.
+ */
+class JfrPhaseRecorder extends PhaseRecorder {
+
+    @Override
+    Phase beginCalendarFetch() {
+        CalendarFetchEvent event = new CalendarFetchEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    void endCalendarFetch(Phase phase, String url, boolean succeeded) {
+        CalendarFetchEvent event = (CalendarFetchEvent) phase;
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.url = url;
+            event.succeeded = succeeded;
+            event.commit();
+        }
+    }
+
+    @Override
+    Phase beginDateParse() {
+        DateParseEvent event = new DateParseEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    void endDateParse(Phase phase, String input, int datesParsed) {
+        DateParseEvent event = (DateParseEvent) phase;
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.input = input;
+            event.datesParsed = datesParsed;
+            event.commit();
+        }
+    }
+
+    @Override
+    Phase beginCalendarIndex() {
+        CalendarIndexEvent event = new CalendarIndexEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    void endCalendarIndex(Phase phase, int sourceRows, int indexedEvents) {
+        CalendarIndexEvent event = (CalendarIndexEvent) phase;
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.sourceRows = sourceRows;
+            event.indexedEvents = indexedEvents;
+            event.commit();
+        }
+    }
+
+    @Override
+    Phase beginPhoneticIndex() {
+        PhoneticIndexEvent event = new PhoneticIndexEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    void endPhoneticIndex(Phase phase, int indexedEvents, int phoneticKeys) {
+        PhoneticIndexEvent event = (PhoneticIndexEvent) phase;
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.indexedEvents = indexedEvents;
+            event.phoneticKeys = phoneticKeys;
+            event.commit();
+        }
+    }
+
+    @Override
+    Phase beginFuzzyScore() {
+        FuzzyScoreEvent event = new FuzzyScoreEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    void endFuzzyScore(Phase phase, String query, String tense, boolean phoneticMatch, int candidates, int matches,
+                       int bestScore) {
+        FuzzyScoreEvent event = (FuzzyScoreEvent) phase;
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.query = query;
+            event.tense = tense;
+            event.phoneticMatch = phoneticMatch;
+            event.candidates = candidates;
+            event.matches = matches;
+            event.bestScore = bestScore;
+            event.commit();
+        }
+    }
+
+    @Override
+    Phase beginResponseRender() {
+        ResponseRenderEvent event = new ResponseRenderEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    void endResponseRender(Phase phase, String intent, String query, int results, int responseLength) {
+        ResponseRenderEvent event = (ResponseRenderEvent) phase;
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.intent = intent;
+            event.query = query;
+            event.results = results;
+            event.responseLength = responseLength;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package edu.brockport.voiceassistant;
+
+/**
+ * A phase of handling a request that is being timed by a {@link edu.brockport.voiceassistant.PhaseRecorder}.
+ * Implemented by the Flight Recorder events, and passed back to the recorder when the phase ends.
+ */
+interface Phase {
+
+    /**
+     * The phase handed out when Flight Recorder is unavailable.
+     */
+    Phase NONE = new Phase() {
+    };
+}
@@ -0,0 +1,78 @@
+package edu.brockport.voiceassistant;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records the phases of handling a request as Java Flight Recorder events.
+ * <p>
+ * This class does not reference {@code jdk.jfr}, since the App Engine Java 8 runtime does not provide it. Every method
+ * is a no-op here. {@link #INSTANCE} is a {@link edu.brockport.voiceassistant.JfrPhaseRecorder}, which loads the event
+ * classes, only when Flight Recorder is present.
+ */
+class PhaseRecorder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PhaseRecorder.class);
+
+    static final PhaseRecorder INSTANCE = create(PhaseRecorder.class.getClassLoader());
+
+    /**
+     * Creates a {@link edu.brockport.voiceassistant.JfrPhaseRecorder} if Flight Recorder is present, and a no-op
+     * recorder otherwise.
+     *
+     * @param classLoader The class loader to look for Flight Recorder with.
+     * @return The recorder to use.
+     */
+    static PhaseRecorder create(ClassLoader classLoader) {
+        try {
+            Class.forName("jdk.jfr.Event", false, classLoader);
+            return new JfrPhaseRecorder();
+        } catch (ClassNotFoundException | LinkageError e) {
+            LOGGER.info("Java Flight Recorder is unavailable, phase events will not be recorded.");
+            return new PhaseRecorder();
+        }
+    }
+
+    Phase beginCalendarFetch() {
+        return Phase.NONE;
+    }
+
+    void endCalendarFetch(Phase phase, String url, boolean succeeded) {
+    }
+
+    Phase beginDateParse() {
+        return Phase.NONE;
+    }
+
+    void endDateParse(Phase phase, String input, int datesParsed) {
+    }
+
+    Phase beginCalendarIndex() {
+        return Phase.NONE;
+    }
+
+    void endCalendarIndex(Phase phase, int sourceRows, int indexedEvents) {
+    }
+
+    Phase beginPhoneticIndex() {
+        return Phase.NONE;
+    }
+
+    void endPhoneticIndex(Phase phase, int indexedEvents, int phoneticKeys) {
+    }
+
+    Phase beginFuzzyScore() {
+        return Phase.NONE;
+    }
+
+    void endFuzzyScore(Phase phase, String query, String tense, boolean phoneticMatch, int candidates, int matches,
+                       int bestScore) {
+    }
+
+    Phase beginResponseRender() {
+        return Phase.NONE;
+    }
+
+    void endResponseRender(Phase phase, String intent, String query, int results, int responseLength) {
+    }
+}
@@ -0,0 +1,113 @@
+package edu.brockport.voiceassistant;
+
+import org.apache.commons.codec.language.DoubleMetaphone;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maps the phonetic keys of event names to the events they belong to, so that speech-to-text transcriptions that are
+ * spelled differently but sound the same (e.g. "bee port homecoming" or "commensment") can be found with a single
+ * lookup.
+ * <p>
+ * A phonetic key is the concatenation of the Double Metaphone code of every word. Concatenating the codes lets words
+ * that were split or merged by the transcription (e.g. "in dependance" and "independence") share the same key. Every
+ * contiguous run of words in an event name is indexed, so that a query only needs to name part of the event.
+ */
+class PhoneticIndex {
+
+    private static final int MAX_CODE_LENGTH = 32;
+    private static final int MIN_KEY_LENGTH = 4;
+
+    // "No" is dropped since it is only ever part of "No Classes", and it sounds like "new", "any" and "in".
+    private static final Set<String> STOP_WORDS = new HashSet<>(Arrays.asList("a", "an", "and", "no", "of", "the",
+            "to"));
+
+    private final DoubleMetaphone encoder = new DoubleMetaphone();
+
+    private final Map<String, Set<String>> index = new HashMap<>();
+
+    PhoneticIndex() {
+        encoder.setMaxCodeLen(MAX_CODE_LENGTH);
+    }
+
+    /**
+     * Indexes every phonetic key of the given spoken name under the given event name.
+     *
+     * @param eventName  The event name to return from {@link #lookup(String)}.
+     * @param spokenName The name as it would be said aloud, e.g. with day information removed.
+     */
+    void add(String eventName, String spokenName) {
+        List<String> codes = encode(spokenName);
+
+        for (int start = 0; start < codes.size(); start++) {
+            StringBuilder key = new StringBuilder();
+
+            for (int end = start; end < codes.size(); end++) {
+                key.append(codes.get(end));
+                index.computeIfAbsent(key.toString(), k -> new HashSet<>()).add(eventName);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the names of every event that has a run of words sounding like the given query. Queries whose key is
+     * shorter than {@code MIN_KEY_LENGTH} (e.g. "in" or "vinyl") sound like too many words to be looked up.
+     *
+     * @param query The query, as transcribed from speech.
+     * @return The matching event names. Empty if none are found.
+     */
+    Set<String> lookup(String query) {
+        String key = String.join("", encode(query));
+
+        return key.length() < MIN_KEY_LENGTH
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet(index.getOrDefault(key, Collections.emptySet()));
+    }
+
+    /**
+     * Retrieves the number of distinct phonetic keys stored.
+     *
+     * @return The number of keys.
+     */
+    int size() {
+        return index.size();
+    }
+
+    /**
+     * Splits the given text into words and encodes each one, skipping stop words and words without a code.
+     * <p>
+     * The leading vowel marker of each code is dropped so that a word split before a vowel ("ex am") encodes the same
+     * as the whole word ("exam"). Numbers are kept as-is, since Double Metaphone ignores digits.
+     *
+     * @param text The text to encode.
+     * @return The code of every remaining word, in order.
+     */
+    private List<String> encode(String text) {
+        List<String> codes = new ArrayList<>();
+
+        for (String word : text.toLowerCase().replace("'", "").split("[^a-z0-9]+")) {
+            if (word.isEmpty() || STOP_WORDS.contains(word)) {
+                continue;
+            }
+
+            String code = word.matches("\\d+") ? word : encoder.doubleMetaphone(word);
+
+            if (code.startsWith("A")) {
+                code = code.substring(1);
+            }
+
+            if (!code.isEmpty()) {
+                codes.add(code);
+            }
+        }
+
+        return codes;
+    }
+}
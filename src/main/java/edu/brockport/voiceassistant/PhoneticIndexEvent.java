@@ -0,0 +1,22 @@
+package edu.brockport.voiceassistant;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering the construction of the phonetic index of event names.
+ */
+@Name("edu.brockport.voiceassistant.PhoneticIndex")
+@Label("Phonetic Index")
+@Category({"Brockport Calendar Assistant", "Calendar"})
+@Description("Builds the phonetic index of event names, the first time an event is looked up by name.")
+class PhoneticIndexEvent extends jdk.jfr.Event implements Phase {
+
+    @Label("Indexed Events")
+    int indexedEvents;
+
+    @Label("Phonetic Keys")
+    int phoneticKeys;
+}
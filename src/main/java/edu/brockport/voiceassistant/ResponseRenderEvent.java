@@ -0,0 +1,29 @@
+package edu.brockport.voiceassistant;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering the rendering of an intent's spoken response.
+ */
+@Name("edu.brockport.voiceassistant.ResponseRender")
+@Label("Response Render")
+@Category({"Brockport Calendar Assistant", "Intent"})
+@Description("Builds the response for a Dialogflow intent.")
+class ResponseRenderEvent extends jdk.jfr.Event implements Phase {
+
+    @Label("Intent")
+    String intent;
+
+    @Label("Query")
+    @Description("The event name, date or day count the user asked about.")
+    String query;
+
+    @Label("Results")
+    int results;
+
+    @Label("Response Length")
+    int responseLength;
+}
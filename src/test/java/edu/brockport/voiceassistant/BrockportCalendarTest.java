@@ -1,13 +1,24 @@
 package edu.brockport.voiceassistant;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -101,4 +112,86 @@ public class BrockportCalendarTest {
     public void getDaysUntilEvent_PastEvent_ShouldNotReturnDays() throws IOException {
         assertNotNull(new BrockportCalendar().getDaysUntilEvent(pastEvent, false));
     }
+
+    @Test
+    @DisplayName("12. Gets only the intended event from the phonetic index for mis-transcribed names.")
+    public void getDate_Transcription_ShouldReturnPhoneticMatch() throws IOException {
+        for (String[] transcription : PhoneticIndexTest.TRANSCRIPTIONS) {
+            List<DateInfo> fullScan = getCalendar().getEventDates(transcription[0], Tense.PAST, false, false);
+            RecordedEvent[] score = new RecordedEvent[1];
+
+            List<DateInfo> dates = recordScore(score,
+                    () -> getCalendar().getEventDates(transcription[0], Tense.PAST, false));
+
+            assertTrue(score[0].getBoolean("phoneticMatch"), transcription[0]);
+            assertTrue(score[0].getInt("candidates") < PhoneticIndexTest.EVENTS.length, transcription[0]);
+            assertEquals(Collections.singletonList(transcription[1]), getNames(dates), transcription[0]);
+
+            // Scoring every event ranks the intended event first too, but pads the results with unrelated events.
+            assertEquals(transcription[1], fullScan.get(0).getName(), transcription[0]);
+            assertTrue(fullScan.size() > 1, transcription[0]);
+        }
+    }
+
+    @Test
+    @DisplayName("13. Scores every event for names that only sound like part of an event.")
+    public void getDate_NearHomophone_ShouldScoreEveryEvent() throws IOException {
+        for (String nearHomophone : PhoneticIndexTest.NEAR_HOMOPHONES) {
+            List<DateInfo> fullScan = getCalendar().getEventDates(nearHomophone, Tense.PAST, false, false);
+            RecordedEvent[] score = new RecordedEvent[1];
+
+            List<DateInfo> dates = recordScore(score,
+                    () -> getCalendar().getEventDates(nearHomophone, Tense.PAST, false));
+
+            assertFalse(score[0].getBoolean("phoneticMatch"), nearHomophone);
+            assertEquals(PhoneticIndexTest.EVENTS.length, score[0].getInt("candidates"), nearHomophone);
+            assertEquals(getNames(fullScan), getNames(dates), nearHomophone);
+        }
+    }
+
+    /**
+     * Builds a calendar of {@link PhoneticIndexTest#EVENTS}, all of which occurred in the past.
+     */
+    private static BrockportCalendar getCalendar() {
+        Map<String, Date> calendar = new HashMap<>();
+        Arrays.stream(PhoneticIndexTest.EVENTS).forEach(event -> calendar.put(event, new Date(0)));
+        return new BrockportCalendar(calendar);
+    }
+
+    private static List<String> getNames(List<DateInfo> dates) {
+        return dates.stream().map(DateInfo::getName).collect(Collectors.toList());
+    }
+
+    /**
+     * Looks up dates while recording the Flight Recorder event emitted for scoring them.
+     *
+     * @param score  Set to the recorded scoring event.
+     * @param lookup The date lookup.
+     * @return The dates that were looked up.
+     */
+    private static List<DateInfo> recordScore(RecordedEvent[] score, Lookup lookup) throws IOException {
+        Path dump = Files.createTempFile("brockport-calendar", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(FuzzyScoreEvent.class);
+            recording.start();
+            List<DateInfo> dates = lookup.run();
+            recording.stop();
+            recording.dump(dump);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(dump).stream()
+                    .filter(event -> event.getEventType().getName().equals("edu.brockport.voiceassistant.FuzzyScore"))
+                    .collect(Collectors.toList());
+            assertEquals(1, events.size());
+            score[0] = events.get(0);
+
+            return dates;
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+
+    private interface Lookup {
+        List<DateInfo> run();
+    }
 }
@@ -0,0 +1,178 @@
+package edu.brockport.voiceassistant;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlightRecorderEventsTest {
+
+    private static final String QUERY = "Bport Homecoming & Family Weekend";
+
+    private Recording recording;
+    private Path dump;
+
+    @BeforeEach
+    void setup() throws IOException {
+        recording = new Recording();
+        recording.enable(CalendarFetchEvent.class);
+        recording.enable(DateParseEvent.class);
+        recording.enable(CalendarIndexEvent.class);
+        recording.enable(PhoneticIndexEvent.class);
+        recording.enable(FuzzyScoreEvent.class);
+        recording.enable(ResponseRenderEvent.class);
+        dump = Files.createTempFile("brockport-calendar", ".jfr");
+    }
+
+    @AfterEach
+    void teardown() throws IOException {
+        recording.close();
+        Files.deleteIfExists(dump);
+    }
+
+    private List<RecordedEvent> record(String eventName) throws Exception {
+        return record(eventName, () -> new BrockportCalendar().getEventDates(QUERY, Tense.PAST, false));
+    }
+
+    private List<RecordedEvent> record(String eventName, Recorded recorded) throws Exception {
+        recording.start();
+        recorded.run();
+        recording.stop();
+        recording.dump(dump);
+
+        return RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("1. Emits a fetch event when the calendar is retrieved.")
+    public void calendarFetch_ShouldEmitEvent() throws Exception {
+        List<RecordedEvent> events = record("edu.brockport.voiceassistant.CalendarFetch");
+
+        assertEquals(1, events.size());
+        assertTrue(events.get(0).getBoolean("succeeded"));
+    }
+
+    @Test
+    @DisplayName("2. Emits a parse event for every calendar date.")
+    public void dateParse_ShouldEmitEvents() throws Exception {
+        List<RecordedEvent> events = record("edu.brockport.voiceassistant.DateParse");
+
+        assertFalse(events.isEmpty());
+        events.forEach(event -> assertNotNull(event.getString("input")));
+    }
+
+    @Test
+    @DisplayName("3. Emits an index event once the calendar is built.")
+    public void calendarIndex_ShouldEmitEvent() throws Exception {
+        List<RecordedEvent> events = record("edu.brockport.voiceassistant.CalendarIndex");
+
+        assertEquals(1, events.size());
+        assertTrue(events.get(0).getInt("indexedEvents") > 0);
+    }
+
+    @Test
+    @DisplayName("4. Emits a scoring event with candidate count and best score.")
+    public void fuzzyScore_ShouldEmitEvent() throws Exception {
+        List<RecordedEvent> events = record("edu.brockport.voiceassistant.FuzzyScore");
+
+        assertEquals(1, events.size());
+        assertEquals(QUERY, events.get(0).getString("query"));
+        assertTrue(events.get(0).getInt("candidates") > 0);
+        assertEquals(100, events.get(0).getInt("bestScore"));
+    }
+
+    @Test
+    @DisplayName("5. Emits a render event when an intent is handled.")
+    public void responseRender_ShouldEmitEvent() throws Exception {
+        // An out of range day count is answered without retrieving the calendar.
+        String body = "{\"responseId\": \"render-test\","
+                + " \"session\": \"projects/brockport/agent/sessions/render-test\","
+                + " \"queryResult\": {\"queryText\": \"events in the next 60 days\","
+                + " \"parameters\": {\"numdays\": 60},"
+                + " \"intent\": {\"name\": \"projects/brockport/agent/intents/getfutureevents\","
+                + " \"displayName\": \"getfutureevents\"}},"
+                + " \"originalDetectIntentRequest\": {\"payload\": {}}}";
+        String[] response = new String[1];
+
+        List<RecordedEvent> events = record("edu.brockport.voiceassistant.ResponseRender", () ->
+                response[0] = new BrockportCalendarApp().handleRequest(body, new HashMap<>()).get());
+
+        assertTrue(response[0].contains("Number of days must be between 1 and 50."));
+        assertEquals(1, events.size());
+        assertEquals("getfutureevents", events.get(0).getString("intent"));
+        assertEquals("60", events.get(0).getString("query"));
+        assertEquals(0, events.get(0).getInt("results"));
+        assertEquals(40, events.get(0).getInt("responseLength"));
+    }
+
+    @Test
+    @DisplayName("6. Records nothing when Flight Recorder is unavailable.")
+    public void noOpRecorder_ShouldNotEmitEvents() throws Exception {
+        // Hide Flight Recorder from the recorder, as on the App Engine Java 8 runtime.
+        PhaseRecorder recorder = PhaseRecorder.create(new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                if (name.startsWith("jdk.jfr.")) {
+                    throw new ClassNotFoundException(name);
+                }
+
+                return super.loadClass(name, resolve);
+            }
+        });
+
+        List<RecordedEvent> events = record("edu.brockport.voiceassistant.ResponseRender", () ->
+                recorder.endResponseRender(recorder.beginResponseRender(), "getfutureevents", "60", 0, 40));
+
+        assertEquals(PhaseRecorder.class, recorder.getClass());
+        assertSame(Phase.NONE, recorder.beginResponseRender());
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    @DisplayName("7. Emits a phonetic index event when an event is first looked up by name.")
+    public void phoneticIndex_EventNameLookup_ShouldEmitEvent() throws Exception {
+        BrockportCalendar calendar = new BrockportCalendar(Collections.singletonMap(QUERY, new Date(0)));
+
+        List<RecordedEvent> events = record("edu.brockport.voiceassistant.PhoneticIndex", () -> {
+            calendar.getEventDates(QUERY, Tense.PAST, false);
+            calendar.getEventDates(QUERY, Tense.PAST, false);
+        });
+
+        assertEquals(1, events.size());
+        assertEquals(1, events.get(0).getInt("indexedEvents"));
+        assertTrue(events.get(0).getInt("phoneticKeys") > 0);
+    }
+
+    @Test
+    @DisplayName("8. Does not build the phonetic index when events are looked up by date.")
+    public void phoneticIndex_DateLookup_ShouldNotEmitEvent() throws Exception {
+        BrockportCalendar calendar = new BrockportCalendar(Collections.singletonMap(QUERY, new Date(0)));
+
+        List<RecordedEvent> events = record("edu.brockport.voiceassistant.PhoneticIndex", () -> {
+            calendar.getEventName(new Date(0), false);
+            calendar.getEventsInNextNDays(50, false);
+        });
+
+        assertTrue(events.isEmpty());
+    }
+
+    private interface Recorded {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,93 @@
+package edu.brockport.voiceassistant;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compares {@link edu.brockport.voiceassistant.BrockportCalendar#getEventDates}, which looks events up in the phonetic
+ * index first, with the full scan that fuzzy scores every event. Both include building the calendar, and the phonetic
+ * index includes building the index, since that is done once for every request.
+ * <p>
+ * Run with the test classpath. The calendar holds every event in {@link PhoneticIndexTest#EVENTS} for each term in
+ * {@code TERMS}, with multi-day events repeated as "Day X" the way the calendar website is read.
+ */
+public class PhoneticIndexBenchmark {
+
+    private static final String[] TERMS = {
+            "Fall 2016", "Spring 2017", "Summer 2017", "Fall 2017", "Spring 2018", "Summer 2018",
+            "Fall 2018", "Spring 2019", "Summer 2019", "Fall 2019", "Spring 2020", "Summer 2020",
+            "Fall 2020", "Spring 2021", "Summer 2021", "Fall 2021", "Spring 2022", "Summer 2022",
+    };
+
+    private static final int MULTI_DAY_EVENT_DAYS = 3;
+
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int ITERATIONS = 200;
+
+    private static final String[] QUERIES = {
+            "bee port homecoming", "commensment", "sprang brake", "reeding day", "new classes", "vinyl",
+    };
+
+    public static void main(String[] args) {
+        Map<String, Date> events = new HashMap<>();
+
+        for (String term : TERMS) {
+            for (String event : PhoneticIndexTest.EVENTS) {
+                String eventName = term + " " + event;
+                events.put(eventName, new Date(0));
+
+                if (event.contains("Weekend") || event.contains("Break") || event.contains("Recess")) {
+                    for (int day = 2; day <= MULTI_DAY_EVENT_DAYS; day++) {
+                        events.put(eventName + " Day " + day, new Date(0));
+                    }
+                }
+            }
+        }
+
+        PhoneticIndex index = new PhoneticIndex();
+        events.keySet().forEach(eventName -> index.add(eventName, BrockportCalendar.getCleanEventName(eventName)));
+        System.out.printf("Calendar: %d events, %d phonetic keys%n", events.size(), index.size());
+
+        // A calendar is built for every request, and it keeps the dates it has found, so each call gets a new one.
+        for (String query : QUERIES) {
+            double phonetic = time(() -> new BrockportCalendar(events).getEventDates(query, Tense.PAST, false).size());
+            double fullScan = time(() -> new BrockportCalendar(events)
+                    .getEventDates(query, Tense.PAST, false, false).size());
+
+            System.out.printf("%-20s phonetic index: %9.1f us  full scan: %9.1f us  phonetic hits: %d%n",
+                    query, phonetic, fullScan, index.lookup(query).size());
+        }
+    }
+
+    /**
+     * Times the given query, after warming it up.
+     *
+     * @param query Runs the query once, returning the number of events found.
+     * @return The mean time per query, in microseconds.
+     */
+    private static double time(Query query) {
+        int sink = 0;
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += query.run();
+        }
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += query.run();
+        }
+
+        // Use the results so that the queries cannot be optimized away.
+        if (sink < 0) {
+            throw new IllegalStateException();
+        }
+
+        return (System.nanoTime() - start) / 1e3 / ITERATIONS;
+    }
+
+    private interface Query {
+        int run();
+    }
+}
@@ -0,0 +1,117 @@
+package edu.brockport.voiceassistant;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PhoneticIndexTest {
+
+    /**
+     * Event names as they appear on the Brockport calendar.
+     */
+    static final String[] EVENTS = {
+            "Fall Semester Classes Begin",
+            "Labor Day, No Classes",
+            "Bport Homecoming & Family Weekend",
+            "Fall Break, No Classes",
+            "Thanksgiving Recess, No Classes",
+            "Last Day to Withdraw",
+            "Reading Day",
+            "Final Exams",
+            "Winter Session Begins",
+            "Martin Luther King Jr. Day, College Closed",
+            "Spring Semester Classes Begin",
+            "Spring Break, No Classes",
+            "Scholars Day, No Classes",
+            "Commencement Ceremony",
+            "Memorial Day, College Closed",
+            "Independence Day, College Closed",
+            "Convocation",
+    };
+
+    /**
+     * Speech-to-text transcriptions of the events above, paired with the event they were meant to be.
+     */
+    static final String[][] TRANSCRIPTIONS = {
+            {"bee port homecoming", "Bport Homecoming & Family Weekend"},
+            {"b port home coming", "Bport Homecoming & Family Weekend"},
+            {"commensment", "Commencement Ceremony"},
+            {"commencement ceremonie", "Commencement Ceremony"},
+            {"in dependance day", "Independence Day, College Closed"},
+            {"thanks giving recess", "Thanksgiving Recess, No Classes"},
+            {"sprang brake", "Spring Break, No Classes"},
+            {"layber day", "Labor Day, No Classes"},
+            {"reeding day", "Reading Day"},
+            {"convo cation", "Convocation"},
+            {"winter sesion", "Winter Session Begins"},
+            {"wintersession", "Winter Session Begins"},
+            {"scholar's day", "Scholars Day, No Classes"},
+            {"final ex ams", "Final Exams"},
+            {"last day to with draw", "Last Day to Withdraw"},
+            {"memorial day", "Memorial Day, College Closed"},
+            {"the fall semester", "Fall Semester Classes Begin"},
+    };
+
+    /**
+     * Transcriptions that sound like words of other events, but were not meant to be any of them.
+     */
+    static final String[] NEAR_HOMOPHONES = {"new classes", "any classes", "in", "vinyl"};
+
+    private static PhoneticIndex index;
+
+    @BeforeAll
+    static void setup() {
+        index = new PhoneticIndex();
+        Arrays.stream(EVENTS).forEach(event -> index.add(event, event));
+    }
+
+    @Test
+    @DisplayName("1. Finds events from mis-transcribed queries.")
+    public void lookup_Transcription_ShouldReturnEvent() {
+        assertAll(Arrays.stream(TRANSCRIPTIONS).map(transcription -> () ->
+                assertTrue(index.lookup(transcription[0]).contains(transcription[1]),
+                        transcription[0] + " should find " + transcription[1])));
+    }
+
+    @Test
+    @DisplayName("2. Finds every event sharing a word with the query.")
+    public void lookup_SharedWord_ShouldReturnAllEvents() {
+        assertEquals(new HashSet<>(Arrays.asList("Fall Semester Classes Begin", "Spring Semester Classes Begin")),
+                index.lookup("semester classes"));
+    }
+
+    @Test
+    @DisplayName("3. Fails to find a fake event.")
+    public void lookup_FakeEvent_ShouldReturnNothing() {
+        assertTrue(index.lookup("This is a fake event that should not work for any use case because it is fake.")
+                .isEmpty());
+    }
+
+    @Test
+    @DisplayName("4. Fails to find an event from a query without words.")
+    public void lookup_EmptyQuery_ShouldReturnNothing() {
+        assertTrue(index.lookup("").isEmpty());
+        assertTrue(index.lookup("the").isEmpty());
+        assertTrue(index.lookup("?!").isEmpty());
+        assertTrue(index.lookup("in").isEmpty());
+    }
+
+    @Test
+    @DisplayName("5. Fails to modify the index through a lookup.")
+    public void lookup_Result_ShouldBeUnmodifiable() {
+        assertThrows(UnsupportedOperationException.class, () -> index.lookup("reading day").clear());
+        assertFalse(index.lookup("reading day").isEmpty());
+    }
+
+    @Test
+    @DisplayName("6. Fails to find an event from a near-homophone.")
+    public void lookup_NearHomophone_ShouldReturnNothing() {
+        assertAll(Arrays.stream(NEAR_HOMOPHONES).map(query -> () ->
+                assertTrue(index.lookup(query).isEmpty(), query)));
+    }
+}